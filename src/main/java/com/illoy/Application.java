@@ -7,7 +7,6 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
 import java.util.regex.Pattern;
 
 /**
@@ -45,6 +44,17 @@ public class Application {
     public static boolean isStatisticsNeeded = false;
     public static boolean isFullStatisticsMode = false;
 
+    /**
+     * Регулярные выражения для распознавания чисел.
+     *
+     * <p>Каждое выражение компилируется один раз при первом обращении,
+     * а не при проверке каждой строки, как при использовании {@link Pattern#matches}.</p>
+     */
+    private static final class NumberPatterns {
+        static final Pattern INTEGER = Pattern.compile("^(-?(?:[1-9]\\d*|0))(?:[eE][+-]?[0-9]+)?$");
+        static final Pattern FLOAT = Pattern.compile("^[-+]?[0-9]+[.,][0-9]+(?:[eE][+-]?[0-9]+)?$");
+    }
+
     public static void main(String[] args) {
         for (int i = 0; i < args.length; i++) {
             switch (args[i]) {
@@ -89,26 +99,27 @@ public class Application {
      * <p>Считывает строки из каждого файла и распределяет их по типу:
      * числа или строки. Игнорирует пустые строки.</p>
      *
+     * <p>Строки разделяются только символами "\n", "\r" и "\r\n". Файл читается в кодировке
+     * по умолчанию, некорректные байты заменяются символом U+FFFD.</p>
+     *
      * @param filesPaths список путей к файлам для обработки
      */
     private static void processFiles(List<String> filesPaths) {
-        Scanner scanner = null;
-
         for (String path : filesPaths) {
-            try{
-                if (checkOutputInputPathsEquality(Path.of(path), outputPath)) {
-                    System.out.println("Input file equals output file. Skipping: " + path);
-                    continue;
-                }
+            if (checkOutputInputPathsEquality(Path.of(path), outputPath)) {
+                System.out.println("Input file equals output file. Skipping: " + path);
+                continue;
+            }
 
-                scanner = new Scanner(new File(path));
+            try (BufferedReader reader = new BufferedReader(new FileReader(path))) {
+                String line;
 
-                while(scanner.hasNextLine()) {
-                    String line = scanner.nextLine().trim();
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
 
                     if (!line.isEmpty()){
-                        if (Pattern.matches("^(-?(?:[1-9]\\d*|0))(?:[eE][+-]?[0-9]+)?$", line) ||
-                                Pattern.matches("^[-+]?[0-9]+[.,][0-9]+(?:[eE][+-]?[0-9]+)?$", line)) {
+                        if (NumberPatterns.INTEGER.matcher(line).matches() ||
+                                NumberPatterns.FLOAT.matcher(line).matches()) {
 
                             processNumber(line);
                         }
@@ -122,11 +133,6 @@ public class Application {
             } catch (IOException e) {
                 System.out.println(e.getMessage());
             }
-            finally {
-                if (scanner != null) {
-                    scanner.close();
-                }
-            }
         }
     }
 
@@ -221,7 +227,7 @@ public class Application {
      * @throws IOException если возникает ошибка записи в файл или ошибка создания файла
      */
     private static void processNumber(String line) throws IOException {
-        BigDecimal bdNumber = new BigDecimal(line.replaceAll(",", "."));
+        BigDecimal bdNumber = new BigDecimal(line.replace(',', '.'));
 
         if (bdNumber.stripTrailingZeros().scale() <= 0) {
             isIntFileCreated = writeToFile(line, outputIntFileName);
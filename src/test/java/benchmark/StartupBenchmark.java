@@ -0,0 +1,229 @@
+package benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Бенчмарк времени запуска приложения.
+ *
+ * <p>Запускает собранный .jar файл в отдельных процессах на небольшом входном файле
+ * и измеряет время до первой строки вывода и общее время работы. Каждый замер
+ * выполняется дважды: без AppCDS архива и с архивом, созданным профилем {@code appcds}.</p>
+ *
+ * <p>Аргументы: путь к .jar файлу, путь к архиву .jsa, количество запусков (по умолчанию 10)
+ * и количество строк во входном файле (по умолчанию 100).</p>
+ */
+public class StartupBenchmark {
+    private static final int WARMUP_RUNS = 2;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 2) {
+            throw new IllegalStateException("Usage: StartupBenchmark <jar> <archive.jsa> [runs] [lines]");
+        }
+
+        Path jar = Paths.get(args[0]).toAbsolutePath();
+        Path archive = Paths.get(args[1]).toAbsolutePath();
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        int lines = args.length > 3 ? Integer.parseInt(args[3]) : 100;
+
+        if (runs < 1) {
+            throw new IllegalStateException("Number of runs must be at least 1.");
+        }
+
+        if (!Files.exists(jar) || !Files.exists(archive)) {
+            throw new IllegalStateException("Jar or archive not found. Run \"mvn package -Pappcds\" first.");
+        }
+
+        Path workDir = Files.createTempDirectory("startup-benchmark");
+        try {
+            Path input = createInput(workDir, lines);
+            verifyArchive(workDir, input, jar, archive);
+
+            long[][] withoutArchive = new long[runs][];
+            long[][] withArchive = new long[runs][];
+            measure(workDir, input, jar, archive, withoutArchive, withArchive);
+
+            System.out.printf("STARTUP BENCHMARK (runs = %d, lines = %d)%n%n", runs, lines);
+            printResult("Without AppCDS archive", withoutArchive);
+            printResult("With AppCDS archive", withArchive);
+        } finally {
+            deleteDirectory(workDir);
+        }
+    }
+
+    /**
+     * Создаёт входной файл со смесью целых чисел, чисел с плавающей точкой и строк.
+     *
+     * @param dir директория для входного файла
+     * @param lines количество строк
+     * @return путь к созданному файлу
+     * @throws IOException если не удалось записать файл
+     */
+    private static Path createInput(Path dir, int lines) throws IOException {
+        List<String> content = new ArrayList<>(lines);
+
+        for (int i = 0; i < lines; i++) {
+            switch (i % 3) {
+                case 0 -> content.add(String.valueOf(i * 17 - 500));
+                case 1 -> content.add(i + "," + (i * 31 % 1000) + "e-2");
+                default -> content.add("line number " + i);
+            }
+        }
+
+        return Files.write(dir.resolve("input.txt"), content);
+    }
+
+    /**
+     * Выполняет серию запусков приложения без архива и с архивом.
+     *
+     * <p>Запуски чередуются, а их порядок внутри итерации меняется на каждой итерации,
+     * чтобы дрейф состояния системы (кэш страниц, частота процессора) одинаково
+     * влиял на обе серии замеров.</p>
+     *
+     * @param dir рабочая директория
+     * @param input входной файл
+     * @param jar путь к .jar файлу
+     * @param archive путь к архиву AppCDS
+     * @param withoutArchive массив для пар [время до первой строки, общее время] без архива в наносекундах
+     * @param withArchive массив для пар [время до первой строки, общее время] с архивом в наносекундах
+     * @throws IOException если не удалось запустить процесс
+     * @throws InterruptedException если ожидание процесса было прервано
+     */
+    private static void measure(Path dir, Path input, Path jar, Path archive,
+                                long[][] withoutArchive, long[][] withArchive)
+            throws IOException, InterruptedException {
+        for (int i = -WARMUP_RUNS; i < withoutArchive.length; i++) {
+            long[] without;
+            long[] with;
+
+            if ((i & 1) == 0) {
+                without = runOnce(dir, input, jar, null);
+                with = runOnce(dir, input, jar, archive);
+            } else {
+                with = runOnce(dir, input, jar, archive);
+                without = runOnce(dir, input, jar, null);
+            }
+
+            if (i >= 0) {
+                withoutArchive[i] = without;
+                withArchive[i] = with;
+            }
+        }
+    }
+
+    /**
+     * Проверяет, что классы приложения действительно загружаются из архива.
+     *
+     * <p>Если архив не подходит к .jar файлу, JVM молча загружает классы из .jar файла,
+     * и замеры "с архивом" фактически выполнялись бы без него.</p>
+     *
+     * @param dir рабочая директория
+     * @param input входной файл
+     * @param jar путь к .jar файлу
+     * @param archive путь к архиву AppCDS
+     * @throws IOException если не удалось запустить процесс
+     * @throws InterruptedException если ожидание процесса было прервано
+     */
+    private static void verifyArchive(Path dir, Path input, Path jar, Path archive)
+            throws IOException, InterruptedException {
+        List<String> command = buildCommand(dir, input, jar, archive, "-Xlog:class+load=info");
+        Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+
+        boolean isLoadedFromArchive = false;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.contains("com.illoy.Application source: shared objects file")) isLoadedFromArchive = true;
+            }
+        }
+
+        int exitCode = process.waitFor();
+        if (exitCode != 0) {
+            throw new IllegalStateException("Application exited with code " + exitCode + ": " + command);
+        }
+        if (!isLoadedFromArchive) {
+            throw new IllegalStateException("Application classes are not loaded from archive " + archive
+                    + ". Rebuild it with \"mvn package -Pappcds\" using the same jar and Java version.");
+        }
+    }
+
+    private static List<String> buildCommand(Path dir, Path input, Path jar, Path archive, String... jvmOptions)
+            throws IOException {
+        Path outputDir = dir.resolve("output");
+        if (Files.exists(outputDir)) deleteDirectory(outputDir);
+
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        if (archive != null) {
+            // -Xshare:on завершает JVM с ошибкой, если архив не удаётся отобразить в память,
+            // вместо того чтобы молча запустить приложение без архива
+            command.add("-Xshare:on");
+            command.add("-XX:SharedArchiveFile=" + archive);
+        }
+        command.addAll(List.of(jvmOptions));
+        command.addAll(List.of("-jar", jar.toString(), "-o", outputDir.toString(), "-s", input.toString()));
+
+        return command;
+    }
+
+    private static long[] runOnce(Path dir, Path input, Path jar, Path archive)
+            throws IOException, InterruptedException {
+        List<String> command = buildCommand(dir, input, jar, archive);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+
+        long firstLine = -1;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            while (reader.readLine() != null) {
+                if (firstLine < 0) firstLine = System.nanoTime() - start;
+            }
+        }
+
+        int exitCode = process.waitFor();
+        long total = System.nanoTime() - start;
+
+        if (exitCode != 0) {
+            throw new IllegalStateException("Application exited with code " + exitCode + ": " + command);
+        }
+
+        return new long[]{firstLine < 0 ? total : firstLine, total};
+    }
+
+    private static void printResult(String title, long[][] results) {
+        long[] firstLine = Arrays.stream(results).mapToLong(r -> r[0]).sorted().toArray();
+        long[] total = Arrays.stream(results).mapToLong(r -> r[1]).sorted().toArray();
+
+        System.out.printf("""
+                %s:
+                first output line: median = %.1f ms, min = %.1f ms
+                total runtime:     median = %.1f ms, min = %.1f ms
+
+                """, title,
+                toMillis(firstLine[firstLine.length / 2]), toMillis(firstLine[0]),
+                toMillis(total[total.length / 2]), toMillis(total[0]));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static void deleteDirectory(Path path) throws IOException {
+        try (Stream<Path> paths = Files.walk(path)) {
+            paths
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.*;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -23,6 +24,7 @@ import static com.illoy.Application.isAppendingMode;
 import static com.illoy.Application.isStatisticsNeeded;
 import static com.illoy.Application.isFullStatisticsMode;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public class ApplicationTest {
@@ -145,4 +147,32 @@ public class ApplicationTest {
 
         assertDoesNotThrow(() -> Application.main(args));
     }
+
+    @Test
+    void testCrlfLineSeparators() throws IOException {
+        Path inputFile = tempDir.resolve("crlf.txt");
+        Files.writeString(inputFile, "123\r\n45.67\r\nHello World\r\n");
+
+        String[] args = {"-o", tempDir.toString(), "-p", "crlf_", inputFile.toString()};
+        Application.main(args);
+
+        assertEquals(List.of("123"), Files.readAllLines(tempDir.resolve("crlf_integers.txt")));
+        assertEquals(List.of("45.67"), Files.readAllLines(tempDir.resolve("crlf_floats.txt")));
+        assertEquals(List.of("Hello World"), Files.readAllLines(tempDir.resolve("crlf_strings.txt")));
+    }
+
+    @Test
+    void testUnicodeLineSeparatorIsNotLineBreak() throws IOException {
+        assumeTrue(Charset.defaultCharset().newEncoder().canEncode('\u2028'),
+                "Default charset cannot encode U+2028");
+
+        Path inputFile = tempDir.resolve("unicode_separator.txt");
+        Files.writeString(inputFile, "123\u2028456\n", Charset.defaultCharset());
+
+        String[] args = {"-o", tempDir.toString(), "-p", "unicode_", inputFile.toString()};
+        Application.main(args);
+
+        assertFalse(Files.exists(tempDir.resolve("unicode_integers.txt")), "Integers file should not exist");
+        assertEquals(List.of("123\u2028456"), Files.readAllLines(tempDir.resolve("unicode_strings.txt"), Charset.defaultCharset()));
+    }
 }